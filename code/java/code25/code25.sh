@@ -0,0 +1,16 @@
+#!/bin/sh
+#
+# Starts Code25 from the packaged jar, with the AOT cache if it was built
+# (mvn -Paot package). The cache is only valid for the same jar and JDK, so
+# it is ignored when the jar was rebuilt after it (plain mvn package);
+# otherwise every run would print mismatch warnings into the output.
+#
+DIR=$(cd "$(dirname "$0")" && pwd)
+JAR="$DIR/target/code25-0.1-SNAPSHOT.jar"
+AOT="$DIR/target/code25.aot"
+MAIN=net.michaelhofmann.cheatsheets.java.code25.Code25
+
+if [ -f "$AOT" ] && [ "$AOT" -nt "$JAR" ]; then
+    exec java -XX:AOTCache="$AOT" -cp "$JAR" "$MAIN" "$@"
+fi
+exec java -cp "$JAR" "$MAIN" "$@"
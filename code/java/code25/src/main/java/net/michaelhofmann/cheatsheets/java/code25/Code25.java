@@ -8,6 +8,8 @@
 
 package net.michaelhofmann.cheatsheets.java.code25;
 
+import net.michaelhofmann.cheatsheets.java.code25.aot.AotTraining;
+
 /**
  *
  * @author michael
@@ -15,6 +17,11 @@ package net.michaelhofmann.cheatsheets.java.code25;
 public class Code25 {
 
     public static void main(String[] args) {
+        if (args.length > 0 && "--train".equals(args[0])) {
+            // training run for the AOT cache, see AotTraining
+            AotTraining.run().forEach(System.out::println);
+            return;
+        }
         System.out.println("Hello World!");
     }
 }
@@ -0,0 +1,78 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.aot;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import net.michaelhofmann.cheatsheets.java.code25.enums.Operation;
+
+/**
+ * Training run for the AOT cache (JDK 25, JEP 483/514).
+ *
+ * Touches the paths a normal short-lived run needs, so their classes are
+ * loaded and linked while the JVM records the cache:
+ * <pre>
+ *   java -XX:AOTCacheOutput=code25.aot -cp code25.jar ...Code25 --train
+ *   java -XX:AOTCache=code25.aot -cp code25.jar ...Code25
+ * </pre>
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class AotTraining {
+
+    private sealed interface Shape permits Square, Circle {}
+    private record Square(String name, int eckenAnzahl) implements Shape {}
+    private record Circle(String name) implements Shape {}
+
+    private AotTraining() {
+    }
+
+    /**
+     * Runs every training path once and returns the results, so nothing
+     * is optimized away.
+     */
+    public static List<String> run() {
+
+        List<String> results = new ArrayList<>();
+
+        // all Operation constants
+        BigDecimal a = new BigDecimal("10");
+        BigDecimal b = new BigDecimal("4");
+        for (Operation operation : Operation.values()) {
+            results.add(operation + "=" + operation.apply(a, b).toPlainString());
+        }
+
+        // text blocks and formatting
+        results.add("""
+                %s runs %d operations
+                """.formatted("Code25", Operation.values().length).strip());
+
+        // list factories
+        List<String> asList = Arrays.asList("c", "a", "b");
+        asList.sort(Comparator.naturalOrder());
+        results.add(String.join(" ", asList));
+        results.add(String.join(" ", List.of("x", "y", "z")));
+
+        // pattern switches on records
+        for (Object obj : List.of(new Square("Quadrat", 4), new Circle("Kreis"), "Guelle")) {
+            results.add(describe(obj));
+        }
+        return results;
+    }
+
+    private static String describe(Object obj) {
+        return switch (obj) {
+            case Square(String name, int eckenAnzahl) -> "%s mit %d Ecken".formatted(name, eckenAnzahl);
+            case Circle(String name) -> "%s ohne Ecken".formatted(name);
+            default -> "irgend etwas unbekanntes";
+        };
+    }
+}
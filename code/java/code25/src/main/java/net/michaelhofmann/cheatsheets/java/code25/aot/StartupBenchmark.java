@@ -0,0 +1,109 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.aot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares time-to-first-result of Code25 with and without AOT cache.
+ *
+ * Starts a fresh JVM per run and stops the clock at the first line on
+ * stdout. Usage:
+ * <pre>
+ *   java -cp code25.jar ...aot.StartupBenchmark code25.jar code25.aot [runs]
+ * </pre>
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "net.michaelhofmann.cheatsheets.java.code25.Code25";
+    private static final int DEFAULT_RUNS = 20;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        if (args.length < 2) {
+            System.err.println("usage: StartupBenchmark <jar> <aot cache> [runs]");
+            System.exit(2);
+        }
+        Path jar = Path.of(args[0]);
+        Path cache = Path.of(args[1]);
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        if (!Files.isRegularFile(cache)) {
+            System.err.println("no AOT cache at " + cache + ", build it with mvn -Paot package");
+            System.exit(1);
+        }
+
+        // one untimed run each, so both start with a warm file system cache
+        firstResultNanos(jar, null);
+        firstResultNanos(jar, cache);
+
+        long[] without = new long[runs];
+        long[] with = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            without[i] = firstResultNanos(jar, null);
+            with[i] = firstResultNanos(jar, cache);
+        }
+        report("without AOT cache", without);
+        report("with AOT cache   ", with);
+        System.out.printf("speedup (median)   %.2fx%n", (double) median(without) / median(with));
+    }
+
+    private static long firstResultNanos(Path jar, Path cache) throws IOException, InterruptedException {
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (cache != null) {
+            command.add("-XX:AOTCache=" + cache);
+        }
+        command.addAll(List.of("-cp", jar.toString(), MAIN_CLASS));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long elapsed;
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            if (out.readLine() == null) {
+                throw new IllegalStateException("no output from " + command);
+            }
+            elapsed = System.nanoTime() - start;
+            out.transferTo(Writer.nullWriter());
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("exit code " + process.exitValue() + " from " + command);
+        }
+        return elapsed;
+    }
+
+    private static void report(String label, long[] nanos) {
+        System.out.printf("%s  median %6.1f ms  min %6.1f ms  max %6.1f ms%n", label,
+                median(nanos) / 1e6,
+                Arrays.stream(nanos).min().orElse(0) / 1e6,
+                Arrays.stream(nanos).max().orElse(0) / 1e6);
+    }
+
+    private static long median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.lists;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fixed-size list view on an array, like Arrays.asList(), but with access
+ * to the backing array for the bulk operations in {@link ParallelLists}.
+ *
+ * set() writes through to the array, add/remove throw
+ * UnsupportedOperationException.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class ArrayBackedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final E[] array;
+
+    private ArrayBackedList(E[] array) {
+        this.array = Objects.requireNonNull(array);
+    }
+
+    /**
+     * Wraps the given array without copying it.
+     */
+    public static <E> ArrayBackedList<E> of(E[] array) {
+        return new ArrayBackedList<>(array);
+    }
+
+    /**
+     * The backing array itself, not a copy.
+     */
+    E[] array() {
+        return array;
+    }
+
+    @Override
+    public E get(int index) {
+        return array[index];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E old = array[index];
+        array[index] = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        Arrays.sort(array, c);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = operator.apply(array[i]);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.lists;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Parallel in-place sort and replaceAll for array-backed fixed-size lists.
+ *
+ * Only {@link ArrayBackedList} exposes its array, so only it gets
+ * Arrays.parallelSort(). Wrap the array with ArrayBackedList.of(array)
+ * instead of Arrays.asList(array) to get the parallel sort. All writes go
+ * straight to the backing array, no toArray() copy is made. Sorting is
+ * stable, like List.sort().
+ *
+ * Arrays.asList() hides its array, so its sort stays the sequential
+ * List.sort() (still in place on the array). replaceAll() is parallel for
+ * it as well, through set() on disjoint index ranges.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class ParallelLists {
+
+    /** Below this size the fork/join overhead does not pay off. */
+    static final int MIN_PARALLEL_SIZE = 1 << 13;
+
+    private static final Class<?> ARRAYS_AS_LIST_CLASS = Arrays.asList().getClass();
+
+    private ParallelLists() {
+    }
+
+    /**
+     * Sorts the list in place. An {@link ArrayBackedList} is sorted with
+     * Arrays.parallelSort() on its array; every other list, Arrays.asList()
+     * included, with the sequential List.sort().
+     *
+     * @throws UnsupportedOperationException if the list cannot be modified
+     */
+    public static <E> void parallelSort(List<E> list, Comparator<? super E> c) {
+        Objects.requireNonNull(list);
+        E[] array = backingArray(list);
+        if (array == null) {
+            list.sort(c);
+        } else if (array.length < MIN_PARALLEL_SIZE) {
+            Arrays.sort(array, c);
+        } else {
+            Arrays.parallelSort(array, c);
+        }
+    }
+
+    /**
+     * Replaces each element with the result of the operator, splitting the
+     * work into fork/join tasks. The operator must not depend on the order
+     * in which the elements are processed.
+     *
+     * @throws UnsupportedOperationException if the list cannot be modified
+     */
+    public static <E> void parallelReplaceAll(List<E> list, UnaryOperator<E> operator) {
+        Objects.requireNonNull(list);
+        Objects.requireNonNull(operator);
+        E[] array = backingArray(list);
+        if (array != null) {
+            if (array.length < MIN_PARALLEL_SIZE) {
+                Arrays.setAll(array, i -> operator.apply(array[i]));
+            } else {
+                ForkJoinPool.commonPool().invoke(
+                        new ReplaceAllTask<>(i -> array[i], (i, e) -> array[i] = e,
+                                operator, 0, array.length));
+            }
+        } else if (list instanceof RandomAccess
+                && list.getClass() == ARRAYS_AS_LIST_CLASS
+                && list.size() >= MIN_PARALLEL_SIZE) {
+            // Arrays.asList().set() is a plain array store, so disjoint
+            // index ranges can be written concurrently.
+            ForkJoinPool.commonPool().invoke(
+                    new ReplaceAllTask<>(list::get, list::set,
+                            operator, 0, list.size()));
+        } else {
+            list.replaceAll(operator);
+        }
+    }
+
+    /**
+     * Returns true if the list is sorted with Arrays.parallelSort().
+     */
+    public static boolean supportsParallelSort(List<?> list) {
+        return backingArray(list) != null;
+    }
+
+    static <E> E[] backingArray(List<E> list) {
+        return list instanceof ArrayBackedList<E> arrayBacked ? arrayBacked.array() : null;
+    }
+
+    @FunctionalInterface
+    private interface IndexReader<E> {
+        E get(int index);
+    }
+
+    @FunctionalInterface
+    private interface IndexWriter<E> {
+        void set(int index, E element);
+    }
+
+    private static final class ReplaceAllTask<E> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient IndexReader<E> reader;
+        private final transient IndexWriter<E> writer;
+        private final transient UnaryOperator<E> operator;
+        private final int from;
+        private final int to;
+
+        ReplaceAllTask(IndexReader<E> reader, IndexWriter<E> writer,
+                UnaryOperator<E> operator, int from, int to) {
+            this.reader = reader;
+            this.writer = writer;
+            this.operator = operator;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_PARALLEL_SIZE) {
+                for (int i = from; i < to; i++) {
+                    writer.set(i, operator.apply(reader.get(i)));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReplaceAllTask<>(reader, writer, operator, from, mid),
+                    new ReplaceAllTask<>(reader, writer, operator, mid, to));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.payments;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * "Today" as epoch day, cached while the clock stays within the same day
+ * of its zone; a step backwards (NTP, manual correction) refreshes too.
+ *
+ * LocalDate.now() resolves the time-zone rules on every call. Here that
+ * happens once a day; in between a call costs clock.millis() and one
+ * volatile read.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class EpochDayClock {
+
+    private record Day(long epochDay, long validFromMillis, long validUntilMillis) {}
+
+    private final Clock clock;
+    private volatile Day day;
+
+    public EpochDayClock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        this.day = dayAt(clock);
+    }
+
+    public static EpochDayClock systemDefaultZone() {
+        return new EpochDayClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Same as LocalDate.now(clock).toEpochDay().
+     */
+    public long today() {
+        Day current = day;
+        long millis = clock.millis();
+        if (millis < current.validFromMillis() || millis >= current.validUntilMillis()) {
+            current = dayAt(clock);
+            day = current;
+        }
+        return current.epochDay();
+    }
+
+    private static Day dayAt(Clock clock) {
+        LocalDate today = LocalDate.now(clock);
+        return new Day(today.toEpochDay(),
+                startOfDay(today, clock.getZone()),
+                startOfDay(today.plusDays(1), clock.getZone()));
+    }
+
+    // atStartOfDay(zone) also handles days that do not start at 00:00
+    private static long startOfDay(LocalDate date, ZoneId zone) {
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
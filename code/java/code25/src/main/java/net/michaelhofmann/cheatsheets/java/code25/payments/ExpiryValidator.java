@@ -0,0 +1,91 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.payments;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Batch check for card expiry.
+ *
+ * A payment is valid exactly when this Optional chain is present:
+ * <pre>
+ *   Optional.ofNullable(payment)
+ *           .map(Payment::card)
+ *           .map(Card::expiryDate)
+ *           .filter(date -&gt; !date.isBefore(LocalDate.now()))
+ * </pre>
+ * but without the Optional allocations and with "today" taken once per
+ * batch from an {@link EpochDayClock}.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class ExpiryValidator {
+
+    /** Payments per parallel chunk, a multiple of 64 so chunks never share a word. */
+    static final int CHUNK_SIZE = 64 * 256;
+
+    private final EpochDayClock clock;
+
+    public ExpiryValidator(EpochDayClock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public boolean isValid(Payment payment) {
+        return isValid(payment, clock.today());
+    }
+
+    /**
+     * Bit i is set if payments[i] is valid.
+     */
+    public BitSet validate(Payment[] payments) {
+
+        long today = clock.today();
+        int length = payments.length;
+        long[] words = new long[(length + 63) >>> 6];
+        int chunks = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        IntStream chunkIndexes = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            chunkIndexes = chunkIndexes.parallel();
+        }
+        chunkIndexes.forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(from + CHUNK_SIZE, length);
+            for (int i = from; i < to; i++) {
+                if (isValid(payments[i], today)) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        });
+        return BitSet.valueOf(words);
+    }
+
+    public BitSet validate(List<Payment> payments) {
+        return validate(payments.toArray(Payment[]::new));
+    }
+
+    /**
+     * Bit i is set if the i-th payment of the (ordered) stream is valid.
+     */
+    public BitSet validate(Stream<Payment> payments) {
+        return validate(payments.toArray(Payment[]::new));
+    }
+
+    private static boolean isValid(Payment payment, long today) {
+        if (payment == null || payment.card() == null) {
+            return false;
+        }
+        LocalDate expiryDate = payment.card().expiryDate();
+        return expiryDate != null && expiryDate.toEpochDay() >= today;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.switches;
+
+/**
+ * Closed set of event records, dispatched by {@link EventProcessor}.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public sealed interface Event permits Tier, Mensch, Flaeche {
+
+    String name();
+}
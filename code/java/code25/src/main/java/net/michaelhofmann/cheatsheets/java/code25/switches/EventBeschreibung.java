@@ -0,0 +1,31 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.switches;
+
+/**
+ * The beschreibung() of SwitchWithRecordsTest as an {@link EventProcessor}.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class EventBeschreibung {
+
+    static final String UNBEKANNT = "irgend etwas unbekanntes";
+
+    // same text as formatted(), but without parsing the format each time
+    public static final EventProcessor<String> PROCESSOR = new EventProcessor<>(
+            tier -> "ein Tier mit " + tier.beineAnzahl() + " Beinen",
+            mensch -> "ein Mensch namens " + mensch.name(),
+            flaeche -> UNBEKANNT);
+
+    private EventBeschreibung() {
+    }
+
+    public static String beschreibung(Object obj) {
+        return obj instanceof Event event ? PROCESSOR.apply(event) : UNBEKANNT;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.switches;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * One typed handler per {@link Event} type, dispatched by an exhaustive
+ * switch over the sealed interface.
+ *
+ * There is no default branch: a new event type does not compile until it
+ * gets a component here, like an exhaustive switch elsewhere.
+ *
+ * <pre>
+ *   static final EventProcessor&lt;String&gt; NAMES = new EventProcessor&lt;&gt;(
+ *           Tier::name,
+ *           Mensch::name,
+ *           Flaeche::name);
+ * </pre>
+ * Handlers read the record components through accessor method references.
+ * Record fields are trusted as constants by the JIT, so when the processor
+ * itself is a static final constant its handlers are inlined into apply().
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public record EventProcessor<R>(
+        Function<? super Tier, ? extends R> tier,
+        Function<? super Mensch, ? extends R> mensch,
+        Function<? super Flaeche, ? extends R> flaeche) {
+
+    public EventProcessor {
+        Objects.requireNonNull(tier);
+        Objects.requireNonNull(mensch);
+        Objects.requireNonNull(flaeche);
+    }
+
+    public R apply(Event event) {
+        return switch (event) {
+            case Tier t -> tier.apply(t);
+            case Mensch m -> mensch.apply(m);
+            case Flaeche f -> flaeche.apply(f);
+        };
+    }
+
+    /**
+     * Applies the processor to every event, results[i] belongs to events[i].
+     */
+    public void applyAll(Event[] events, R[] results) {
+        if (results.length < events.length) {
+            throw new IllegalArgumentException("results shorter than events: "
+                    + results.length + " < " + events.length);
+        }
+        for (int i = 0; i < events.length; i++) {
+            results[i] = apply(events[i]);
+        }
+    }
+}
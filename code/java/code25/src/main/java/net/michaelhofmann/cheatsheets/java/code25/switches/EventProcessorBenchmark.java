@@ -0,0 +1,122 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.switches;
+
+import java.util.Random;
+
+/**
+ * Events per second on one core: pattern switch over Object against the
+ * typed handlers of {@link EventProcessor}.
+ *
+ * A plain timing loop:
+ * <pre>
+ *   java -cp code25.jar ...switches.EventProcessorBenchmark
+ * </pre>
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class EventProcessorBenchmark {
+
+    private static final int EVENTS = 1 << 20;
+    private static final long TARGET_NANOS = 1_000_000_000L;
+
+    private static final EventProcessor<Integer> WEIGHT = new EventProcessor<>(
+            Tier::beineAnzahl,
+            mensch -> mensch.name().length(),
+            Flaeche::eckenAnzahl);
+
+    private static volatile long sink;
+
+    private EventProcessorBenchmark() {
+    }
+
+    public static void main(String[] args) {
+
+        Object[] objects = new Object[EVENTS];
+        Event[] events = new Event[EVENTS];
+        Random random = new Random(42);
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = switch (random.nextInt(3)) {
+                case 0 -> new Tier("Giraffe", 4);
+                case 1 -> new Mensch("Karl");
+                default -> new Flaeche("Quadrat", 4);
+            };
+            objects[i] = events[i];
+        }
+
+        report("switch over Object, weight", () -> {
+            long sum = 0;
+            for (Object obj : objects) {
+                sum += switchWeight(obj);
+            }
+            return sum;
+        });
+        report("EventProcessor, weight", () -> {
+            long sum = 0;
+            for (Event event : events) {
+                sum += WEIGHT.apply(event);
+            }
+            return sum;
+        });
+        report("switch over Object, beschreibung", () -> {
+            long sum = 0;
+            for (Object obj : objects) {
+                sum += switchBeschreibung(obj).length();
+            }
+            return sum;
+        });
+        report("EventProcessor, beschreibung", () -> {
+            long sum = 0;
+            for (Event event : events) {
+                sum += EventBeschreibung.PROCESSOR.apply(event).length();
+            }
+            return sum;
+        });
+    }
+
+    private static int switchWeight(Object obj) {
+        return switch (obj) {
+            case Tier(String name, int beineAnzahl) -> beineAnzahl;
+            case Mensch(String name) -> name.length();
+            case Flaeche(String name, int eckenAnzahl) -> eckenAnzahl;
+            default -> 0;
+        };
+    }
+
+    private static String switchBeschreibung(Object obj) {
+        return switch (obj) {
+            case Tier(String name, int beineAnzahl) -> "ein Tier mit " + beineAnzahl + " Beinen";
+            case Mensch(String name) -> "ein Mensch namens " + name;
+            default -> EventBeschreibung.UNBEKANNT;
+        };
+    }
+
+    @FunctionalInterface
+    private interface Round {
+        long run();
+    }
+
+    private static void report(String label, Round round) {
+
+        // warm-up, then as many rounds as fit into the time budget
+        long warmupEnd = System.nanoTime() + TARGET_NANOS / 2;
+        while (System.nanoTime() < warmupEnd) {
+            sink += round.run();
+        }
+        int rounds = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink += round.run();
+            rounds++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < TARGET_NANOS);
+        System.out.printf("%-34s %8.1f M events/s%n", label,
+                (double) EVENTS * rounds / elapsed * 1e3);
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.switches;
+
+/**
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public record Mensch(String name) implements Event {}
@@ -0,0 +1,101 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * String.join() for large exports, without building the joined string.
+ *
+ * joinTo() collects the elements into chunks of about 16K chars and writes
+ * each chunk to a Writer or channel, so a list with hundreds of thousands
+ * of elements never exists as a single String. For joining into a
+ * String, String.join() is already presized and copies every element
+ * once; it stays the right choice.
+ *
+ * Like String.join(), a null element is written as "null".
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class BulkJoiner {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private BulkJoiner() {
+    }
+
+    /**
+     * Writes the joined elements to out in chunks of about 16K chars.
+     */
+    public static void joinTo(Writer out, CharSequence delimiter,
+            Iterable<? extends CharSequence> elements) throws IOException {
+
+        StringBuilder chunk = new StringBuilder(CHUNK_SIZE + CHUNK_SIZE / 4);
+        boolean first = true;
+        for (CharSequence element : elements) {
+            if (!first) {
+                chunk.append(delimiter);
+            }
+            chunk.append(element);
+            first = false;
+            if (chunk.length() >= CHUNK_SIZE) {
+                out.append(chunk);
+                chunk.setLength(0);
+            }
+        }
+        out.append(chunk);
+    }
+
+    /**
+     * Encodes the joined elements with the charset and writes them to out
+     * in chunks of about 16K chars.
+     *
+     * The bytes are the same as String.join(delimiter,
+     * elements).getBytes(charset): chars that cannot be encoded are
+     * replaced, and a chunk never ends between the two halves of a
+     * surrogate pair, even if the pair is split across two elements.
+     *
+     * @return number of bytes written
+     */
+    public static long joinTo(WritableByteChannel out, Charset charset, CharSequence delimiter,
+            Iterable<? extends CharSequence> elements) throws IOException {
+
+        StringBuilder chunk = new StringBuilder(CHUNK_SIZE + CHUNK_SIZE / 4);
+        long written = 0;
+        boolean first = true;
+        for (CharSequence element : elements) {
+            if (!first) {
+                chunk.append(delimiter);
+            }
+            chunk.append(element);
+            first = false;
+            if (chunk.length() >= CHUNK_SIZE) {
+                int end = chunk.length();
+                // keep a high surrogate for the next chunk, its low half may follow
+                if (Character.isHighSurrogate(chunk.charAt(end - 1))) {
+                    end--;
+                }
+                written += write(out, chunk.substring(0, end).getBytes(charset));
+                chunk.delete(0, end);
+            }
+        }
+        return written + write(out, chunk.toString().getBytes(charset));
+    }
+
+    private static long write(WritableByteChannel out, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        return bytes.length;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Exports a list as one joined line, across list sizes and element
+ * lengths, Latin-1 and non-Latin-1: String.join() or Collectors.joining()
+ * followed by a write, against BulkJoiner.joinTo() on a Writer and on a
+ * channel. The output is UTF-8 into a discarding sink.
+ *
+ * A plain timing loop, start with a fixed heap for stable numbers:
+ * <pre>
+ *   java -Xms2g -Xmx2g -cp code25.jar ...text.BulkJoinerBenchmark
+ * </pre>
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class BulkJoinerBenchmark {
+
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+    private static final int[] ELEMENT_LENGTHS = {4, 32, 256};
+    private static final long TARGET_NANOS = 500_000_000L;
+
+    @FunctionalInterface
+    private interface Export {
+        void run(List<String> list) throws IOException;
+    }
+
+    private record Candidate(String name, Export export) {}
+
+    private static final List<Candidate> CANDIDATES = List.of(
+            new Candidate("String.join+write", list -> {
+                try (Writer out = writer()) {
+                    out.write(String.join(" ", list));
+                }
+            }),
+            new Candidate("Collectors.joining+write", list -> {
+                try (Writer out = writer()) {
+                    out.write(list.stream().collect(Collectors.joining(" ")));
+                }
+            }),
+            new Candidate("String.join+channel", list -> {
+                WritableByteChannel out = channel();
+                out.write(ByteBuffer.wrap(String.join(" ", list).getBytes(StandardCharsets.UTF_8)));
+            }),
+            new Candidate("BulkJoiner.joinTo(Writer)", list -> {
+                try (Writer out = writer()) {
+                    BulkJoiner.joinTo(out, " ", list);
+                }
+            }),
+            new Candidate("BulkJoiner.joinTo(channel)", list -> {
+                BulkJoiner.joinTo(channel(), StandardCharsets.UTF_8, " ", list);
+            }));
+
+    private BulkJoinerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+
+        System.out.printf("%-8s %9s %6s  %-28s %12s%n", "text", "size", "length", "candidate", "ms/op");
+        for (boolean latin1 : new boolean[]{true, false}) {
+            for (int size : SIZES) {
+                for (int length : ELEMENT_LENGTHS) {
+                    if ((long) size * length > 64_000_000L) {
+                        continue;
+                    }
+                    List<String> list = elements(size, length, latin1);
+                    for (Candidate candidate : CANDIDATES) {
+                        System.out.printf("%-8s %,9d %6d  %-28s %12.3f%n",
+                                latin1 ? "latin1" : "utf16", size, length,
+                                candidate.name(), measure(candidate, list) / 1e6);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Writer writer() {
+        return new BufferedWriter(new OutputStreamWriter(
+                OutputStream.nullOutputStream(), StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private static WritableByteChannel channel() {
+        return Channels.newChannel(OutputStream.nullOutputStream());
+    }
+
+    private static double measure(Candidate candidate, List<String> list) {
+
+        // warm-up, then as many rounds as fit into the time budget
+        long warmupEnd = System.nanoTime() + TARGET_NANOS / 2;
+        while (System.nanoTime() < warmupEnd) {
+            run(candidate, list);
+        }
+        int rounds = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            run(candidate, list);
+            rounds++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < TARGET_NANOS);
+        return (double) elapsed / rounds;
+    }
+
+    private static void run(Candidate candidate, List<String> list) {
+        try {
+            candidate.export().run(list);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> elements(int size, int length, boolean latin1) {
+        Random random = new Random(size * 31L + length);
+        String alphabet = latin1 ? "abcdefghijklmnopqrstuvwxyzäöüß" : "abcdefghijklmnopqrstuvwxyz€αβγ";
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            list.add(sb.toString());
+        }
+        return list;
+    }
+}
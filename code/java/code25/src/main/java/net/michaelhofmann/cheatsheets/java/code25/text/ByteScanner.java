@@ -0,0 +1,131 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Fast scanning of text buffers for line terminators and delimiters.
+ *
+ * Works on the raw bytes of ASCII-compatible encodings (ISO-8859-1,
+ * UTF-8), where \n and \r never occur inside a multi-byte character.
+ * Line counting follows String.lines(): \n, \r and \r\n end a line, a
+ * trailing terminator does not start another, empty input has no lines.
+ *
+ * Uses the Vector API when jdk.incubator.vector is present
+ * (--add-modules jdk.incubator.vector), otherwise a long-at-a-time SWAR
+ * kernel.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public final class ByteScanner {
+
+    private static final ScanKernel KERNEL = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector").isPresent()
+            ? vectorKernel()
+            : new SwarScanKernel();
+
+    private ByteScanner() {
+    }
+
+    /**
+     * Same as new String(data, ISO_8859_1).lines().count().
+     */
+    public static long countLines(byte[] data) {
+        return countLines(MemorySegment.ofArray(data), KERNEL);
+    }
+
+    /**
+     * Same as countLines(byte[]) for the bytes of the segment.
+     */
+    public static long countLines(MemorySegment segment) {
+        return countLines(segment, KERNEL);
+    }
+
+    /**
+     * Index of the first byte at or after from that equals one of the
+     * targets, or -1.
+     */
+    public static int indexOfAny(byte[] data, int from, byte... targets) {
+        Objects.checkIndex(from, data.length + 1);
+        return (int) KERNEL.indexOfAny(MemorySegment.ofArray(data), from, targets);
+    }
+
+    /**
+     * Offset of the first byte at or after from that equals one of the
+     * targets, or -1.
+     */
+    public static long indexOfAny(MemorySegment segment, long from, byte... targets) {
+        Objects.checkIndex(from, segment.byteSize() + 1);
+        return KERNEL.indexOfAny(segment, from, targets);
+    }
+
+    /**
+     * Offsets of all bytes that equal one of the delimiters, in ascending
+     * order. Each step scans only up to the next match.
+     */
+    public static PrimitiveIterator.OfLong delimiterOffsets(byte[] data, byte... delimiters) {
+        return delimiterOffsets(MemorySegment.ofArray(data), delimiters);
+    }
+
+    /**
+     * Offsets of all bytes in the segment that equal one of the
+     * delimiters, in ascending order.
+     */
+    public static PrimitiveIterator.OfLong delimiterOffsets(MemorySegment segment, byte... delimiters) {
+        return new DelimiterOffsets(segment, KERNEL.prepare(delimiters));
+    }
+
+    static long countLines(MemorySegment segment, ScanKernel kernel) {
+        long size = segment.byteSize();
+        if (size == 0) {
+            return 0;
+        }
+        long lines = kernel.countLineTerminators(segment);
+        byte last = segment.get(ValueLayout.JAVA_BYTE, size - 1);
+        // an unterminated last line counts as well
+        return last == ScanKernel.LF || last == ScanKernel.CR ? lines : lines + 1;
+    }
+
+    // separate method, so VectorScanKernel is only loaded if the module is there
+    private static ScanKernel vectorKernel() {
+        return new VectorScanKernel();
+    }
+
+    private static final class DelimiterOffsets implements PrimitiveIterator.OfLong {
+
+        private final MemorySegment segment;
+        private final ScanKernel.Matcher delimiters;
+        private long next;
+
+        DelimiterOffsets(MemorySegment segment, ScanKernel.Matcher delimiters) {
+            this.segment = segment;
+            this.delimiters = delimiters;
+            this.next = delimiters.indexOf(segment, 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            long current = next;
+            next = delimiters.indexOf(segment, current + 1);
+            return current;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Byte scanning primitives behind {@link ByteScanner}.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+interface ScanKernel {
+
+    byte LF = '\n';
+    byte CR = '\r';
+
+    /**
+     * Number of line terminators (\n, \r or \r\n) in the segment, a
+     * \r\n pair counts once.
+     */
+    long countLineTerminators(MemorySegment segment);
+
+    /**
+     * Offset of the first byte at or after from that equals one of the
+     * targets, or -1. Does not keep a reference to targets.
+     */
+    long indexOfAny(MemorySegment segment, long from, byte[] targets);
+
+    /**
+     * Matcher for repeated scans with the same targets, everything that
+     * depends only on the targets is computed here once. The targets are
+     * copied.
+     */
+    Matcher prepare(byte[] targets);
+
+    /**
+     * Targets prepared by {@link ScanKernel#prepare(byte[])}.
+     */
+    interface Matcher {
+
+        /**
+         * Same as indexOfAny(segment, from, targets).
+         */
+        long indexOf(MemorySegment segment, long from);
+    }
+
+    /**
+     * Plain byte-by-byte scan of [from, to), used for the tails.
+     */
+    static long countLineTerminators(MemorySegment segment, long from, long to) {
+        long count = 0;
+        long size = segment.byteSize();
+        for (long i = from; i < to; i++) {
+            byte b = segment.get(ValueLayout.JAVA_BYTE, i);
+            if (b == LF || (b == CR && (i + 1 == size
+                    || segment.get(ValueLayout.JAVA_BYTE, i + 1) != LF))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static long indexOfAny(MemorySegment segment, long from, long to, byte[] targets) {
+        for (long i = from; i < to; i++) {
+            byte b = segment.get(ValueLayout.JAVA_BYTE, i);
+            for (byte target : targets) {
+                if (b == target) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * SIMD within a register: compares eight bytes at a time in a long.
+ *
+ * Fallback when the jdk.incubator.vector module is not available.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+final class SwarScanKernel implements ScanKernel {
+
+    // little endian, so the lowest set bit belongs to the lowest offset
+    private static final ValueLayout.OfLong WORD =
+            ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+    private static final long LF_WORD = broadcast(LF);
+    private static final long CR_WORD = broadcast(CR);
+
+    @Override
+    public long countLineTerminators(MemorySegment segment) {
+        long size = segment.byteSize();
+        long count = 0;
+        long i = 0;
+        // the word at i + 1 tells whether a \r is followed by \n
+        for (; i + Long.BYTES + 1 <= size; i += Long.BYTES) {
+            long word = segment.get(WORD, i);
+            long next = segment.get(WORD, i + 1);
+            long terminators = equalBytes(word, LF_WORD)
+                    | (equalBytes(word, CR_WORD) & ~equalBytes(next, LF_WORD));
+            count += Long.bitCount(terminators);
+        }
+        return count + ScanKernel.countLineTerminators(segment, i, size);
+    }
+
+    @Override
+    public long indexOfAny(MemorySegment segment, long from, byte[] targets) {
+        long size = segment.byteSize();
+        long i = from;
+        // one-shot: broadcasting in the loop is cheaper than a patterns array
+        for (; i + Long.BYTES <= size; i += Long.BYTES) {
+            long word = segment.get(WORD, i);
+            long found = 0;
+            for (byte target : targets) {
+                found |= equalBytes(word, broadcast(target));
+            }
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        return ScanKernel.indexOfAny(segment, i, size, targets);
+    }
+
+    @Override
+    public Matcher prepare(byte[] targets) {
+        byte[] copy = targets.clone();
+        long[] patterns = new long[copy.length];
+        for (int t = 0; t < copy.length; t++) {
+            patterns[t] = broadcast(copy[t]);
+        }
+        return (segment, from) -> {
+            long size = segment.byteSize();
+            long i = from;
+            for (; i + Long.BYTES <= size; i += Long.BYTES) {
+                long word = segment.get(WORD, i);
+                long found = 0;
+                for (long pattern : patterns) {
+                    found |= equalBytes(word, pattern);
+                }
+                if (found != 0) {
+                    return i + (Long.numberOfTrailingZeros(found) >>> 3);
+                }
+            }
+            return ScanKernel.indexOfAny(segment, i, size, copy);
+        };
+    }
+
+    /**
+     * 0x80 in every byte of word that equals the byte in pattern, 0
+     * elsewhere. Exact, no false positives from borrows.
+     */
+    static long equalBytes(long word, long pattern) {
+        long t = word ^ pattern;
+        return ~(((t & LOW7) + LOW7) | t | LOW7);
+    }
+
+    private static long broadcast(byte b) {
+        return (b & 0xFFL) * ONES;
+    }
+}
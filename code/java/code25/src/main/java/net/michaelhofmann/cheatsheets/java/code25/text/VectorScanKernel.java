@@ -0,0 +1,68 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernel, compares a full SIMD register of bytes per step.
+ *
+ * Needs --add-modules jdk.incubator.vector at runtime.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+final class VectorScanKernel implements ScanKernel {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public long countLineTerminators(MemorySegment segment) {
+        long size = segment.byteSize();
+        int length = SPECIES.length();
+        long count = 0;
+        long i = 0;
+        // the vector at i + 1 tells whether a \r is followed by \n
+        for (; i + length + 1 <= size; i += length) {
+            ByteVector v = ByteVector.fromMemorySegment(SPECIES, segment, i, ByteOrder.nativeOrder());
+            ByteVector next = ByteVector.fromMemorySegment(SPECIES, segment, i + 1, ByteOrder.nativeOrder());
+            VectorMask<Byte> terminators = v.eq(LF)
+                    .or(v.eq(CR).andNot(next.eq(LF)));
+            count += terminators.trueCount();
+        }
+        return count + ScanKernel.countLineTerminators(segment, i, size);
+    }
+
+    @Override
+    public long indexOfAny(MemorySegment segment, long from, byte[] targets) {
+        long size = segment.byteSize();
+        int length = SPECIES.length();
+        long i = from;
+        for (; i + length <= size; i += length) {
+            ByteVector v = ByteVector.fromMemorySegment(SPECIES, segment, i, ByteOrder.nativeOrder());
+            VectorMask<Byte> found = SPECIES.maskAll(false);
+            for (byte target : targets) {
+                found = found.or(v.eq(target));
+            }
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScanKernel.indexOfAny(segment, i, size, targets);
+    }
+
+    @Override
+    public Matcher prepare(byte[] targets) {
+        // eq(byte) broadcasts inside the loop, C2 hoists it; only copy
+        byte[] copy = targets.clone();
+        return (segment, from) -> indexOfAny(segment, from, copy);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.aot;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public class AotTrainingTest {
+
+    public AotTrainingTest() {
+    }
+
+    @Test
+    public void run01() {
+
+        List<String> results = AotTraining.run();
+
+        assertEquals(List.of(
+                "ADD=14",
+                "SUBTRACT=6",
+                "MULTIPLY=40",
+                "DIVIDE=2.5",
+                "Code25 runs 4 operations",
+                "a b c",
+                "x y z",
+                "Quadrat mit 4 Ecken",
+                "Kreis ohne Ecken",
+                "irgend etwas unbekanntes"), results);
+    }
+}
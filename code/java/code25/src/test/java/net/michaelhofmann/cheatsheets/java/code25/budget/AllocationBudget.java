@@ -0,0 +1,46 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.budget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test if one invocation of its body allocates more than the
+ * given number of bytes on the calling thread (average after warm-up).
+ *
+ * Works for @Test as well as for every single @ParameterizedTest case.
+ * On a JVM without per-thread allocation counting the test is aborted
+ * (reported as skipped), not silently passed.
+ *
+ * The body is called warmups + iterations extra times without running
+ * {@code @BeforeEach} / {@code @AfterEach}, so it must not depend on
+ * per-test setup or leave state behind. Classes declaring those callbacks
+ * are rejected.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ExtendWith(BudgetExtension.class)
+public @interface AllocationBudget {
+
+    /** Maximum allocated bytes per invocation. */
+    long bytes();
+
+    /** Invocations before measuring, so the JIT can settle. */
+    int warmups() default BudgetExtension.DEFAULT_WARMUPS;
+
+    /** Measured invocations, the result is the average. */
+    int iterations() default BudgetExtension.DEFAULT_ITERATIONS;
+}
@@ -0,0 +1,180 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.budget;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Checks {@link AllocationBudget} and {@link LatencyBudget}.
+ *
+ * The test body is called reflectively for the warm-up and the measured
+ * rounds, then the regular invocation runs as usual. Allocation is read
+ * from com.sun.management.ThreadMXBean for the current thread, so work
+ * handed to other threads is not counted. The numbers include the small
+ * cost of the reflective call itself.
+ *
+ * The warm-up and measured calls run without {@code @BeforeEach} /
+ * {@code @AfterEach}, so test classes that declare them are rejected with
+ * an ExtensionConfigurationException instead of measuring wrong numbers.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public class BudgetExtension implements InvocationInterceptor {
+
+    static final int DEFAULT_WARMUPS = 10_000;
+    static final int DEFAULT_ITERATIONS = 1_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+
+        checkBudgets(invocationContext, extensionContext);
+        invocation.proceed();
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+
+        checkBudgets(invocationContext, extensionContext);
+        invocation.proceed();
+    }
+
+    private void checkBudgets(ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+
+        Method method = invocationContext.getExecutable();
+        AllocationBudget allocation = method.getAnnotation(AllocationBudget.class);
+        LatencyBudget latency = method.getAnnotation(LatencyBudget.class);
+        if (allocation == null && latency == null) {
+            return;
+        }
+
+        rejectLifecycleMethods(extensionContext);
+        if (allocation != null && THREADS == null) {
+            // a budget that silently checks nothing would hide regressions
+            Assumptions.abort("@AllocationBudget needs per-thread allocation counting "
+                    + "(com.sun.management.ThreadMXBean), which this JVM does not support");
+        }
+
+        int warmups = Math.max(
+                allocation == null ? 0 : allocation.warmups(),
+                latency == null ? 0 : latency.warmups());
+        int iterations = Math.max(1, Math.max(
+                allocation == null ? 0 : allocation.iterations(),
+                latency == null ? 0 : latency.iterations()));
+
+        Object target = invocationContext.getTarget().orElse(null);
+        Object[] arguments = invocationContext.getArguments().toArray();
+        method.setAccessible(true);
+
+        for (int i = 0; i < warmups; i++) {
+            invoke(method, target, arguments);
+        }
+
+        boolean measureAllocation = allocation != null;
+        long bytesBefore = measureAllocation ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+        long nanosBefore = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            invoke(method, target, arguments);
+        }
+        long nanos = System.nanoTime() - nanosBefore;
+        long bytes = measureAllocation ? THREADS.getCurrentThreadAllocatedBytes() - bytesBefore : 0;
+
+        List<String> violations = new ArrayList<>();
+        if (measureAllocation && bytes / iterations > allocation.bytes()) {
+            violations.add("allocated %,d bytes per invocation, budget is %,d bytes"
+                    .formatted(bytes / iterations, allocation.bytes()));
+        }
+        if (latency != null) {
+            long budgetNanos = latency.unit().toNanos(latency.value());
+            if (nanos / iterations > budgetNanos) {
+                violations.add("took %,d ns per invocation, budget is %,d ns (%d %s)"
+                        .formatted(nanos / iterations, budgetNanos,
+                                latency.value(), latency.unit().name().toLowerCase(Locale.ROOT)));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError(report(extensionContext, warmups, iterations, violations));
+        }
+    }
+
+    private static void rejectLifecycleMethods(ExtensionContext extensionContext) {
+        // with @Nested classes the enclosing instances' callbacks run as well
+        for (Object instance : extensionContext.getRequiredTestInstances().getAllInstances()) {
+            for (Class<?> type = instance.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (AnnotationSupport.isAnnotated(method, BeforeEach.class)
+                            || AnnotationSupport.isAnnotated(method, AfterEach.class)) {
+                        throw new ExtensionConfigurationException(
+                                "@AllocationBudget/@LatencyBudget call the test method repeatedly without "
+                                + "@BeforeEach/@AfterEach, but " + type.getName() + "."
+                                + method.getName() + "() is a lifecycle callback");
+                    }
+                }
+            }
+        }
+    }
+
+    private static String report(ExtensionContext extensionContext,
+            int warmups, int iterations, List<String> violations) {
+
+        StringBuilder sb = new StringBuilder("Budget exceeded for ")
+                .append(extensionContext.getDisplayName())
+                .append(" (")
+                .append(extensionContext.getRequiredTestMethod().getName())
+                .append("), measured ")
+                .append(iterations)
+                .append(" invocations after ")
+                .append(warmups)
+                .append(" warm-ups:");
+        violations.forEach(v -> sb.append("\n  - ").append(v));
+        return sb.toString();
+    }
+
+    private static void invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        return Optional.of(ManagementFactory.getThreadMXBean())
+                .filter(com.sun.management.ThreadMXBean.class::isInstance)
+                .map(com.sun.management.ThreadMXBean.class::cast)
+                .filter(com.sun.management.ThreadMXBean::isThreadAllocatedMemorySupported)
+                .filter(bean -> {
+                    if (!bean.isThreadAllocatedMemoryEnabled()) {
+                        bean.setThreadAllocatedMemoryEnabled(true);
+                    }
+                    return bean.isThreadAllocatedMemoryEnabled();
+                })
+                .orElse(null);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.budget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test if one invocation of its body takes longer than the
+ * given time (average after warm-up).
+ *
+ * Keep the budget generous, wall-clock time on a build machine is noisy.
+ *
+ * The body is called warmups + iterations extra times without running
+ * {@code @BeforeEach} / {@code @AfterEach}, so it must not depend on
+ * per-test setup or leave state behind. Classes declaring those callbacks
+ * are rejected.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ExtendWith(BudgetExtension.class)
+public @interface LatencyBudget {
+
+    /** Maximum time per invocation. */
+    long value();
+
+    TimeUnit unit() default TimeUnit.MICROSECONDS;
+
+    /** Invocations before measuring, so the JIT can settle. */
+    int warmups() default BudgetExtension.DEFAULT_WARMUPS;
+
+    /** Measured invocations, the result is the average. */
+    int iterations() default BudgetExtension.DEFAULT_ITERATIONS;
+}
@@ -14,6 +14,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.math.BigDecimal;
 import java.util.stream.Stream;
 
+import net.michaelhofmann.cheatsheets.java.code25.budget.AllocationBudget;
+import net.michaelhofmann.cheatsheets.java.code25.budget.LatencyBudget;
+
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -29,11 +32,38 @@ public class OperationTest {
 
     @ParameterizedTest(name = "{0}: {1} ? {2} = {3}")
     @MethodSource("testData")
+    // measured: ADD 64 bytes, SUBTRACT and MULTIPLY 24 bytes, below 1 µs.
+    // Allocation is deterministic, time is not: its budget leaves 20x room.
+    @AllocationBudget(bytes = 128, iterations = 20_000)
+    @LatencyBudget(value = 20, iterations = 20_000)
     void testApply(Operation operation,
             BigDecimal a,
             BigDecimal b,
             BigDecimal expected) {
 
+        assertApply(operation, a, b, expected);
+    }
+
+    // DIVIDE with DECIMAL128 allocates far more than the other operations,
+    // so it gets its own budget. Measured: 4.7 to 5.5 KB, 3 to 6 µs
+    // (time budget again with about 20x room)
+    @ParameterizedTest(name = "{0}: {1} ? {2} = {3}")
+    @MethodSource("testDataDivide")
+    @AllocationBudget(bytes = 6 * 1024, iterations = 20_000)
+    @LatencyBudget(value = 100, iterations = 20_000)
+    void testApplyDivide(Operation operation,
+            BigDecimal a,
+            BigDecimal b,
+            BigDecimal expected) {
+
+        assertApply(operation, a, b, expected);
+    }
+
+    private static void assertApply(Operation operation,
+            BigDecimal a,
+            BigDecimal b,
+            BigDecimal expected) {
+
         BigDecimal result = operation.apply(a, b);
         assertEquals(0, expected.compareTo(result),
                 () -> "Expected " + expected + " but was " + result);
@@ -52,7 +82,12 @@ public class OperationTest {
                 Arguments.of(Operation.MULTIPLY,
                         new BigDecimal("2"),
                         new BigDecimal("4"),
-                        new BigDecimal("8")),
+                        new BigDecimal("8"))
+        );
+    }
+
+    static Stream<Arguments> testDataDivide() {
+        return Stream.of(
                 Arguments.of(Operation.DIVIDE,
                         new BigDecimal("10"),
                         new BigDecimal("4"),
@@ -0,0 +1,119 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.lists;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Proof suite: parallel sort and replaceAll write through to the backing
+ * array of Arrays.asList() and ArrayBackedList.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+@DisplayName("ParallelLists on array-backed lists")
+class ParallelListsTest {
+
+    private static final int LARGE = ParallelLists.MIN_PARALLEL_SIZE * 8;
+
+    record Entry(int key, int position) {}
+
+    @Test
+    @DisplayName("parallelSort: Arrays.asList falls back to List.sort, still writes through to the array")
+    void parallelSort_arraysAsList_fallsBackToListSort() {
+
+        String[] arr = {"c", "a", "b"};
+        List<String> list = Arrays.asList(arr);
+
+        // Arrays.asList hides its array -> sequential List.sort()
+        assertFalse(ParallelLists.supportsParallelSort(list));
+
+        ParallelLists.parallelSort(list, Comparator.naturalOrder());
+
+        assertArrayEquals(new String[]{"a", "b", "c"}, arr);
+        assertEquals(List.of("a", "b", "c"), list);
+
+        // the list is still a view on the same array
+        list.set(2, "y");
+        assertArrayEquals(new String[]{"a", "b", "y"}, arr);
+    }
+
+    @Test
+    @DisplayName("parallelSort: large ArrayBackedList is sorted stable with Arrays.parallelSort")
+    void parallelSort_largeArrayBackedList_isStable() {
+
+        Random random = new Random(42);
+        Entry[] arr = new Entry[LARGE];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = new Entry(random.nextInt(100), i);
+        }
+        Entry[] expected = arr.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Entry::key));
+
+        ArrayBackedList<Entry> list = ArrayBackedList.of(arr);
+        assertTrue(ParallelLists.supportsParallelSort(list));
+        assertTrue(arr.length >= ParallelLists.MIN_PARALLEL_SIZE);
+
+        ParallelLists.parallelSort(list, Comparator.comparingInt(Entry::key));
+        assertArrayEquals(expected, arr);
+    }
+
+    @Test
+    @DisplayName("parallelReplaceAll: large Arrays.asList and ArrayBackedList write through to the array")
+    void parallelReplaceAll_largeList_writesThroughToArray() {
+
+        String[] arr = new String[LARGE];
+        Arrays.fill(arr, "x");
+        List<String> list = Arrays.asList(arr);
+
+        ParallelLists.parallelReplaceAll(list, s -> s.toUpperCase(Locale.ROOT));
+        assertTrue(Arrays.stream(arr).allMatch("X"::equals));
+
+        Integer[] own = new Integer[LARGE];
+        Arrays.setAll(own, i -> i);
+        ParallelLists.parallelReplaceAll(ArrayBackedList.of(own), i -> i * 2);
+        for (int i = 0; i < own.length; i++) {
+            assertEquals(i * 2, own[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("ArrayBackedList: fixed-size like Arrays.asList, backing array is not copied")
+    void arrayBackedList_isFixedSizeView() {
+
+        String[] arr = {"a", "b", "c"};
+        ArrayBackedList<String> list = ArrayBackedList.of(arr);
+
+        assertTrue(ParallelLists.supportsParallelSort(list));
+        assertSame(arr, list.array());
+
+        list.set(0, "z");
+        assertArrayEquals(new String[]{"z", "b", "c"}, arr);
+        assertThrows(UnsupportedOperationException.class, () -> list.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove("b"));
+    }
+
+    @Test
+    @DisplayName("List.of(): still throws UOE, like List.sort / List.replaceAll")
+    void listOf_throwsUnsupportedOperationException() {
+
+        List<String> ofList = List.of("c", "a", "b");
+
+        assertFalse(ParallelLists.supportsParallelSort(ofList));
+        assertThrows(UnsupportedOperationException.class,
+                () -> ParallelLists.parallelSort(ofList, Comparator.naturalOrder()));
+        assertThrows(UnsupportedOperationException.class,
+                () -> ParallelLists.parallelReplaceAll(ofList, s -> s));
+    }
+}
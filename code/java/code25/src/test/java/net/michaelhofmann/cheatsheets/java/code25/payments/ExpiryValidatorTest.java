@@ -0,0 +1,151 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.payments;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Proof suite: ExpiryValidator gives the same answers as the Optional
+ * chain from OptionalNpePreventionTest.
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+@DisplayName("ExpiryValidator – batch card expiry check")
+class ExpiryValidatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 30);
+
+    /** Clock that can be moved forward and backward by the test. */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static boolean optionalChain(Payment payment, Clock clock) {
+        return Optional.ofNullable(payment)
+                .map(Payment::card)
+                .map(Card::expiryDate)
+                .filter(date -> !date.isBefore(LocalDate.now(clock)))
+                .isPresent();
+    }
+
+    @Test
+    @DisplayName("Null-safe like the Optional chain: null payment, card or date is invalid")
+    void isValid_matchesOptionalChain() {
+
+        Clock clock = Clock.fixed(TODAY.atTime(12, 0).atZone(ZONE).toInstant(), ZONE);
+        ExpiryValidator validator = new ExpiryValidator(new EpochDayClock(clock));
+
+        Payment[] payments = {
+            null,
+            new Payment(null),
+            new Payment(new Card(null)),
+            new Payment(new Card(TODAY.minusDays(1))),
+            new Payment(new Card(TODAY)),
+            new Payment(new Card(TODAY.plusDays(1)))
+        };
+        BitSet result = validator.validate(payments);
+        for (int i = 0; i < payments.length; i++) {
+            assertEquals(optionalChain(payments[i], clock), validator.isValid(payments[i]));
+            assertEquals(optionalChain(payments[i], clock), result.get(i));
+        }
+        assertEquals(BitSet.valueOf(new long[]{0b110000}), result);
+    }
+
+    @Test
+    @DisplayName("EpochDayClock moves to the next day at midnight, also on a DST change")
+    void epochDayClock_refreshesAtDayBoundary() {
+
+        // 2025-03-30 is the switch to summer time in Berlin
+        ZonedDateTime beforeMidnight = TODAY.atTime(23, 59, 59).atZone(ZONE);
+        MutableClock clock = new MutableClock(beforeMidnight.toInstant());
+        EpochDayClock today = new EpochDayClock(clock);
+
+        assertEquals(TODAY.toEpochDay(), today.today());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(TODAY.plusDays(1).toEpochDay(), today.today());
+        assertEquals(LocalDate.now(clock).toEpochDay(), today.today());
+    }
+
+    @Test
+    @DisplayName("EpochDayClock moves back a day when the clock is set back across midnight")
+    void epochDayClock_refreshesWhenClockStepsBack() {
+
+        ZonedDateTime afterMidnight = TODAY.plusDays(1).atStartOfDay(ZONE).plusSeconds(1);
+        MutableClock clock = new MutableClock(afterMidnight.toInstant());
+        EpochDayClock today = new EpochDayClock(clock);
+
+        assertEquals(TODAY.plusDays(1).toEpochDay(), today.today());
+        clock.advance(Duration.ofSeconds(-2));
+        assertEquals(TODAY.toEpochDay(), today.today());
+        assertEquals(LocalDate.now(clock).toEpochDay(), today.today());
+        clock.advance(Duration.ofSeconds(2));
+        assertEquals(TODAY.plusDays(1).toEpochDay(), today.today());
+    }
+
+    @Test
+    @DisplayName("Large batches: parallel chunks give the same bits as the single check")
+    void validate_largeBatch_matchesSingleChecks() {
+
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZONE).toInstant(), ZONE);
+        ExpiryValidator validator = new ExpiryValidator(new EpochDayClock(clock));
+
+        Random random = new Random(42);
+        Payment[] payments = new Payment[ExpiryValidator.CHUNK_SIZE * 5 + 17];
+        for (int i = 0; i < payments.length; i++) {
+            payments[i] = switch (random.nextInt(4)) {
+                case 0 -> null;
+                case 1 -> new Payment(null);
+                default -> new Payment(new Card(TODAY.plusDays(random.nextInt(5) - 2)));
+            };
+        }
+
+        BitSet result = validator.validate(payments);
+        for (int i = 0; i < payments.length; i++) {
+            assertEquals(optionalChain(payments[i], clock), result.get(i), "payment " + i);
+        }
+        assertEquals(result, validator.validate(Arrays.stream(payments)));
+        assertEquals(result, validator.validate(Arrays.asList(payments)));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.switches;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public class EventProcessorTest {
+
+    public EventProcessorTest() {
+    }
+
+    /** The same event as one of the records local to SwitchWithRecordsTest. */
+    private static Object testRecord(Event event) {
+        return switch (event) {
+            case Tier(String name, int beineAnzahl) -> new SwitchWithRecordsTest.Tier(name, beineAnzahl);
+            case Mensch(String name) -> new SwitchWithRecordsTest.Mensch(name);
+            case Flaeche(String name, int eckenAnzahl) -> new SwitchWithRecordsTest.Flaeche(name, eckenAnzahl);
+        };
+    }
+
+    @Test
+    public void beschreibung01() {
+
+        List<Event> events = List.of(
+                new Tier("Giraffe", 4),
+                new Tier("Tausendfuessler", 1000),
+                new Mensch("Karl"),
+                new Flaeche("Dreieck", 3));
+
+        for (Event event : events) {
+            assertEquals(SwitchWithRecordsTest.beschreibung(testRecord(event)),
+                    EventBeschreibung.PROCESSOR.apply(event));
+            assertEquals(SwitchWithRecordsTest.beschreibung(testRecord(event)),
+                    EventBeschreibung.beschreibung(event));
+        }
+        assertEquals(SwitchWithRecordsTest.beschreibung("Guelle"),
+                EventBeschreibung.beschreibung("Guelle"));
+
+        String[] results = new String[events.size()];
+        EventBeschreibung.PROCESSOR.applyAll(events.toArray(Event[]::new), results);
+        assertEquals("ein Tier mit 1000 Beinen", results[1]);
+    }
+
+    @Test
+    public void construct01() {
+
+        // every event type needs a handler
+        assertThrows(NullPointerException.class,
+                () -> new EventProcessor<String>(Tier::name, Mensch::name, null));
+
+        EventProcessor<Integer> weight = new EventProcessor<>(
+                Tier::beineAnzahl, mensch -> 1, Flaeche::eckenAnzahl);
+        assertEquals(1000, weight.apply(new Tier("Tausendfuessler", 1000)));
+        assertEquals(1, weight.apply(new Mensch("Karl")));
+        assertEquals(3, weight.apply(new Flaeche("Dreieck", 3)));
+    }
+}
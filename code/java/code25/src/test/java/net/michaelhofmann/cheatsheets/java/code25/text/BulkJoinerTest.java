@@ -0,0 +1,102 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public class BulkJoinerTest {
+
+    public BulkJoinerTest() {
+    }
+
+    @Test
+    public void joinTo01() throws Exception {
+
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            list.add(i % 7 == 0 ? "Straße " + i : "€ " + i);
+        }
+        String expected = String.join(";", list);
+
+        StringWriter writer = new StringWriter();
+        BulkJoiner.joinTo(writer, ";", list);
+        assertEquals(expected, writer.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long written = BulkJoiner.joinTo(Channels.newChannel(bytes), StandardCharsets.UTF_8, ";", list);
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+        assertEquals(bytes.size(), written);
+
+        bytes.reset();
+        assertEquals(0, BulkJoiner.joinTo(Channels.newChannel(bytes), StandardCharsets.UTF_8, ";", List.of()));
+        assertEquals(0, bytes.size());
+    }
+
+    @Test
+    public void joinTo02() throws Exception {
+
+        // Latin-1, UTF-16, null, empty and a surrogate pair split across
+        // two elements (with an empty delimiter it joins back into one char)
+        String clef = "\uD834\uDD1E";
+        List<List<String>> lists = List.of(
+                List.of(),
+                List.of("a"),
+                List.of("", ""),
+                List.of("Grüße", "aus", "Köln"),
+                List.of("Preis", "10€"),
+                Arrays.asList("a", null, "c"),
+                List.of(clef.substring(0, 1), clef.substring(1)),
+                List.of("x" + clef.substring(0, 1), "", clef.substring(1) + "y"),
+                List.of("dangling" + clef.substring(0, 1)),
+                // pairs split across elements on every chunk boundary
+                Collections.nCopies(40_000, "x" + clef.substring(0, 1)),
+                splitPairs(clef, 30_000));
+        for (String delimiter : List.of("", ", ", "→")) {
+            for (List<String> list : lists) {
+                String expected = String.join(delimiter, list);
+
+                StringWriter writer = new StringWriter();
+                BulkJoiner.joinTo(writer, delimiter, list);
+                assertEquals(expected, writer.toString());
+
+                for (Charset charset : List.of(StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1)) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    long written = BulkJoiner.joinTo(Channels.newChannel(bytes), charset, delimiter, list);
+                    assertArrayEquals(expected.getBytes(charset), bytes.toByteArray(),
+                            () -> list + " joined with '" + delimiter + "' in " + charset);
+                    assertEquals(bytes.size(), written);
+                }
+            }
+        }
+    }
+
+    /** "a" and then single halves, so the 16K chunk ends on a high surrogate. */
+    private static List<String> splitPairs(String pair, int count) {
+        List<String> list = new ArrayList<>();
+        list.add("a");
+        for (int i = 0; i < count; i++) {
+            list.add(pair.substring(0, 1));
+            list.add(pair.substring(1));
+        }
+        return list;
+    }
+}
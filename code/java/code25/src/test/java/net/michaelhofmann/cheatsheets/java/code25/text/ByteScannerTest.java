@@ -0,0 +1,108 @@
+/*
+ *   O R A N G E   O B J E C T S
+ * 
+ *   copyright by Orange Objects
+ *   http://www.OrangeObjects.de
+ * 
+ */
+package net.michaelhofmann.cheatsheets.java.code25.text;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author Michael.Hofmann@OrangeObjects.de
+ */
+public class ByteScannerTest {
+
+    private static final List<ScanKernel> KERNELS = List.of(
+            new SwarScanKernel(), new VectorScanKernel());
+
+    public ByteScannerTest() {
+    }
+
+    static Stream<Arguments> texts() {
+        List<String> texts = new ArrayList<>(List.of(
+                // StringApiTest.lines01
+                """
+                First line and
+                second line and another
+                line plus
+                a fourth line extra""",
+                "", "a", "\n", "\r", "\r\n", "\n\n", "\r\r", "\n\r",
+                "a\r\nb\rc\nd", "a\r\n", "a\r\n\r\n", "\r\n\n\r",
+                "ein Grüße-Text\nmit Umlauten äöü\r\n"));
+        // long enough for the SIMD loops, terminators on every lane boundary
+        Random random = new Random(4711);
+        char[] alphabet = {'a', 'b', ';', '\\', '\n', '\r'};
+        for (int length : new int[]{7, 8, 9, 31, 32, 33, 63, 64, 65, 1000, 4097}) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            texts.add(sb.toString());
+        }
+        return texts.stream().flatMap(text -> KERNELS.stream()
+                .map(kernel -> Arguments.of(kernel.getClass().getSimpleName(), kernel, text)));
+    }
+
+    @ParameterizedTest(name = "{0} [{index}]")
+    @MethodSource("texts")
+    void countLines_agreesWithStringLines(String name, ScanKernel kernel, String text) {
+
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(text.lines().count(),
+                ByteScanner.countLines(MemorySegment.ofArray(data), kernel));
+    }
+
+    @ParameterizedTest(name = "{0} [{index}]")
+    @MethodSource("texts")
+    void indexOfAny_agreesWithScalarScan(String name, ScanKernel kernel, String text) {
+
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        MemorySegment segment = MemorySegment.ofArray(data);
+        byte[] targets = {';', '\\'};
+        ScanKernel.Matcher matcher = kernel.prepare(targets);
+        for (int from = 0; from <= data.length; from++) {
+            long expected = ScanKernel.indexOfAny(segment, from, data.length, targets);
+            assertEquals(expected, kernel.indexOfAny(segment, from, targets));
+            assertEquals(expected, matcher.indexOf(segment, from));
+        }
+    }
+
+    @Test
+    public void countLines01() {
+
+        String text = """
+            First line and
+            second line and another
+            line plus
+            a fourth line extra""";
+
+        assertEquals(4, ByteScanner.countLines(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void delimiterOffsets01() {
+
+        byte[] data = "a;b\\;c;".getBytes(StandardCharsets.US_ASCII);
+        PrimitiveIterator.OfLong offsets = ByteScanner.delimiterOffsets(data, (byte) ';', (byte) '\\');
+
+        List<Long> found = new ArrayList<>();
+        offsets.forEachRemaining((long offset) -> found.add(offset));
+        assertEquals(List.of(1L, 3L, 4L, 6L), found);
+        assertEquals(-1, ByteScanner.indexOfAny(data, 7, (byte) ';'));
+        assertEquals(4, ByteScanner.indexOfAny(data, 2, (byte) ';'));
+    }
+}